@@ -67,25 +67,26 @@ public class Main {
     }
 
     private void viewMode() throws Exception {
-        var index = chooseDocumentIndex();
-        index.addDocuments(DocumentUtils.loadWikiDocuments(Paths.get("./documents")));
+        try (var index = chooseDocumentIndex()) {
+            index.addDocuments(DocumentUtils.loadWikiDocuments(Paths.get("./documents")));
 
-        System.out.printf("Created index %s  with size %d mb\n", index.getId(), index.getSize());
+            System.out.printf("Created index %s  with size %d mb\n", index.getId(), index.getSize());
 
-        while (true) {
-            var query = getUserInput("Enter query or 0 to quit: ", new ArrayList<>());
-            if (query.equals("0")) {
-                return;
-            }
+            while (true) {
+                var query = getUserInput("Enter query or 0 to quit: ", new ArrayList<>());
+                if (query.equals("0")) {
+                    return;
+                }
 
-            var startTime = System.nanoTime();
-            var queryResults = index.query(query, 10);
-            System.out.printf("Query elapsed time %d ms\n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
-            for (var result : queryResults) {
-                System.out.printf("[%s] [%f]\n", result.doc.get("title"), result.score);
-            }
+                var startTime = System.nanoTime();
+                var queryResults = index.query(query, 10);
+                System.out.printf("Query elapsed time %d ms\n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+                for (var result : queryResults) {
+                    System.out.printf("[%s] [%f]\n", result.doc.get("title"), result.score);
+                }
 
-            System.out.println();
+                System.out.println();
+            }
         }
     }
 
@@ -3,14 +3,21 @@ package indexing;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.queryparser.classic.ParseException;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 
-public interface DocumentIndex {
+public interface DocumentIndex extends Closeable {
     String CONTENT_FIELD_NAME = "content";
 
     void addDocuments(List<Document> documents) throws IOException;
     List<QueryResult> query(String queryStr, int depth) throws IOException, ParseException;
+    // Cursor based paging, pass null cursor for the first page and QueryPage.nextCursor after that
+    QueryPage query(String queryStr, String cursor, int pageSize) throws IOException, ParseException;
     String getId();
     long getSize();
+
+    default QueryResultIterator iterate(String queryStr, int pageSize) throws IOException, ParseException {
+        return new QueryResultIterator(this, queryStr, pageSize);
+    }
 }
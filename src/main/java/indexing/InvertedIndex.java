@@ -9,9 +9,12 @@ import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
 import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -25,11 +28,17 @@ public class InvertedIndex implements DocumentIndex {
     private final Directory index;
     private final Analyzer analyzer;
     private final Path indexPath;
+    private final QueryPager pager;
 
     public InvertedIndex() throws IOException {
-        this.indexPath = Paths.get("./indexes/index_inverted");
+        this(Paths.get("./indexes/index_inverted"));
+    }
+
+    public InvertedIndex(Path indexPath) throws IOException {
+        this.indexPath = indexPath;
         this.index = new MMapDirectory(indexPath);
         this.analyzer = new LatvianAnalyzer();
+        this.pager = new QueryPager(this.index, new SearcherFactory());
     }
 
     @Override
@@ -53,7 +62,7 @@ public class InvertedIndex implements DocumentIndex {
     @Override
     public List<QueryResult> query(String queryStr, int depth) throws IOException, ParseException {
         var queryResults = new ArrayList<QueryResult>();
-        var query = new QueryParser(DocumentIndex.CONTENT_FIELD_NAME, this.analyzer).parse(queryStr);
+        var query = parseQuery(queryStr);
 
         var reader = DirectoryReader.open(this.index);
         var searcher = new IndexSearcher(reader);
@@ -72,6 +81,20 @@ public class InvertedIndex implements DocumentIndex {
         return queryResults;
     }
 
+    @Override
+    public QueryPage query(String queryStr, String cursor, int pageSize) throws IOException, ParseException {
+        return this.pager.query(parseQuery(queryStr), queryStr, cursor, pageSize);
+    }
+
+    private Query parseQuery(String queryStr) throws ParseException {
+        return new QueryParser(DocumentIndex.CONTENT_FIELD_NAME, this.analyzer).parse(queryStr);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(this.pager, this.index, this.analyzer);
+    }
+
     @Override
     public String getId() {
         return "inverted";
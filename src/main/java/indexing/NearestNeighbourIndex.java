@@ -12,16 +12,20 @@ import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
 import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.similarities.ClassicSimilarity;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
 import util.DocumentUtils;
 import util.VectorSpace;
 
@@ -59,6 +63,7 @@ public class NearestNeighbourIndex implements DocumentIndex {
     private final Analyzer embeddingAnalyzer;
     private final Path indexPath;
     private final int quantizationFactor;
+    private final QueryPager pager;
 
     public NearestNeighbourIndex(VectorSpace wordEmbeddings) throws IOException {
         this.indexPath = Paths.get("./indexes/" + "nearest_neighbor_" + wordEmbeddings.getName());
@@ -67,6 +72,14 @@ public class NearestNeighbourIndex implements DocumentIndex {
         this.documentAnalyzer = new SimpleAnalyzer();
         this.embeddingAnalyzer = new EmbeddingAnalyzer();
         this.quantizationFactor = 70;
+        this.pager = new QueryPager(this.index, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                var searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new ClassicSimilarity());
+                return searcher;
+            }
+        });
 
         // Boolean queries get very long due to document encoding
         // 300 dimensions wont work without this
@@ -122,20 +135,12 @@ public class NearestNeighbourIndex implements DocumentIndex {
     @Override
     public List<QueryResult> query(String queryStr, int depth) throws IOException, ParseException {
         var queryResults = new ArrayList<QueryResult>();
-        var queryTokens = DocumentUtils.analyze(this.documentAnalyzer, queryStr);
-        var queryVector = DocumentUtils.documentToVector(queryTokens, this.wordEmbeddings);
-
-        if (queryVector.zeroed()) {
-            throw new ParseException("Query vector could not be built");
-        }
+        var query = parseQuery(queryStr);
 
         var reader = DirectoryReader.open(this.index);
         var searcher = new IndexSearcher(reader);
         searcher.setSimilarity(new ClassicSimilarity());
 
-        var queryFakeWord = DocumentUtils.embeddingToFakeWord(queryVector, this.quantizationFactor);
-        var query = new QueryParser(DocumentIndex.CONTENT_FIELD_NAME, this.embeddingAnalyzer).parse(queryFakeWord);
-
         var collector = TopScoreDocCollector.create(depth, Integer.MAX_VALUE);
         searcher.search(query, collector);
         var hits = collector.topDocs().scoreDocs;
@@ -150,6 +155,28 @@ public class NearestNeighbourIndex implements DocumentIndex {
         return queryResults;
     }
 
+    @Override
+    public QueryPage query(String queryStr, String cursor, int pageSize) throws IOException, ParseException {
+        return this.pager.query(parseQuery(queryStr), queryStr, cursor, pageSize);
+    }
+
+    private Query parseQuery(String queryStr) throws IOException, ParseException {
+        var queryTokens = DocumentUtils.analyze(this.documentAnalyzer, queryStr);
+        var queryVector = DocumentUtils.documentToVector(queryTokens, this.wordEmbeddings);
+
+        if (queryVector.zeroed()) {
+            throw new ParseException("Query vector could not be built");
+        }
+
+        var queryFakeWord = DocumentUtils.embeddingToFakeWord(queryVector, this.quantizationFactor);
+        return new QueryParser(DocumentIndex.CONTENT_FIELD_NAME, this.embeddingAnalyzer).parse(queryFakeWord);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(this.pager, this.index, this.documentAnalyzer, this.embeddingAnalyzer);
+    }
+
     @Override
     public String getId() {
         return "nearest_neighbor_" + this.wordEmbeddings.getName();
@@ -0,0 +1,67 @@
+package indexing;
+
+import org.apache.lucene.search.ScoreDoc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// Encodes the last hit of a page so the next page can continue with IndexSearcher.searchAfter.
+// Doc ids are only meaningful for the index build that produced them, so the token also carries
+// the reader version and a fingerprint of the query, and is rejected if either does not match.
+final class QueryCursor {
+    private static final int ENCODED_LENGTH = Integer.BYTES + Float.BYTES + Long.BYTES + Long.BYTES;
+
+    private QueryCursor() {}
+
+    static String encode(ScoreDoc lastHit, String queryStr, long readerVersion) {
+        var buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+                .putInt(lastHit.doc)
+                .putFloat(lastHit.score)
+                .putLong(fingerprint(queryStr))
+                .putLong(readerVersion);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static ScoreDoc decode(String cursor, String queryStr, long readerVersion) {
+        if (cursor == null) {
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid query cursor: " + cursor, e);
+        }
+
+        if (bytes.length != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid query cursor: " + cursor);
+        }
+
+        var buffer = ByteBuffer.wrap(bytes);
+        var doc = buffer.getInt();
+        var score = buffer.getFloat();
+
+        if (buffer.getLong() != fingerprint(queryStr)) {
+            throw new IllegalArgumentException("Query cursor belongs to a different query");
+        }
+        if (buffer.getLong() != readerVersion) {
+            throw new IllegalArgumentException("Query cursor belongs to a different index version");
+        }
+
+        return new ScoreDoc(doc, score);
+    }
+
+    // First 64 bits of SHA-256, String.hashCode collides far too easily to tell queries apart
+    static long fingerprint(String queryStr) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(queryStr.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package indexing;
+
+import java.util.List;
+
+public class QueryPage {
+    public List<QueryResult> results;
+    // Opaque token for the page after this one, null when there are no more results
+    public String nextCursor;
+
+    public QueryPage(List<QueryResult> results, String nextCursor) {
+        this.results = results;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+}
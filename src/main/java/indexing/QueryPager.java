@@ -0,0 +1,71 @@
+package indexing;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+
+// Cursor based paging shared by the index implementations.
+// Keeps one reader open across pages instead of opening the index for every page.
+class QueryPager implements Closeable {
+    private final Directory index;
+    private final SearcherFactory searcherFactory;
+    private SearcherManager searcherManager;
+
+    QueryPager(Directory index, SearcherFactory searcherFactory) {
+        this.index = index;
+        this.searcherFactory = searcherFactory;
+    }
+
+    QueryPage query(Query query, String queryStr, String cursor, int pageSize) throws IOException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+
+        var manager = getSearcherManager();
+        var searcher = manager.acquire();
+        try {
+            var readerVersion = ((DirectoryReader) searcher.getIndexReader()).getVersion();
+            var after = QueryCursor.decode(cursor, queryStr, readerVersion);
+
+            // One extra hit tells whether another page exists without a further round trip
+            var fetchSize = pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1;
+            var hits = searcher.searchAfter(after, query, fetchSize).scoreDocs;
+            var pageHits = Math.min(hits.length, pageSize);
+
+            var queryResults = new ArrayList<QueryResult>(pageHits);
+            for (var i = 0; i < pageHits; i++) {
+                queryResults.add(new QueryResult(searcher.doc(hits[i].doc), hits[i].score));
+            }
+
+            var nextCursor = hits.length > pageSize
+                    ? QueryCursor.encode(hits[pageSize - 1], queryStr, readerVersion)
+                    : null;
+            return new QueryPage(queryResults, nextCursor);
+        } finally {
+            manager.release(searcher);
+        }
+    }
+
+    private synchronized SearcherManager getSearcherManager() throws IOException {
+        if (this.searcherManager == null) {
+            this.searcherManager = new SearcherManager(this.index, this.searcherFactory);
+        } else {
+            this.searcherManager.maybeRefresh();
+        }
+        return this.searcherManager;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.searcherManager != null) {
+            this.searcherManager.close();
+            this.searcherManager = null;
+        }
+    }
+}
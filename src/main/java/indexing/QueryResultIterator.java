@@ -0,0 +1,54 @@
+package indexing;
+
+import org.apache.lucene.queryparser.classic.ParseException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Walks all results of a query one page at a time, so only a single page is held in memory
+public class QueryResultIterator implements Iterator<QueryResult> {
+    private final DocumentIndex index;
+    private final String queryStr;
+    private final int pageSize;
+    private QueryPage page;
+    private Iterator<QueryResult> pageResults;
+
+    // First page is fetched eagerly so query parsing errors surface here and not during iteration
+    public QueryResultIterator(DocumentIndex index, String queryStr, int pageSize) throws IOException, ParseException {
+        this.index = index;
+        this.queryStr = queryStr;
+        this.pageSize = pageSize;
+        this.page = index.query(queryStr, null, pageSize);
+        this.pageResults = this.page.results.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.pageResults.hasNext() && this.page.hasNext()) {
+            fetchNextPage();
+        }
+        return this.pageResults.hasNext();
+    }
+
+    @Override
+    public QueryResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.pageResults.next();
+    }
+
+    private void fetchNextPage() {
+        try {
+            this.page = this.index.query(this.queryStr, this.page.nextCursor, this.pageSize);
+            this.pageResults = this.page.results.iterator();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            // Query already parsed successfully for the first page
+            throw new IllegalStateException(e);
+        }
+    }
+}
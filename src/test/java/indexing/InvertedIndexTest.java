@@ -0,0 +1,126 @@
+package indexing;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.search.ScoreDoc;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+    private static final String QUERY = "kakis";
+    private static final int DOCUMENT_COUNT = 25;
+
+    @TempDir
+    Path indexPath;
+
+    private InvertedIndex createIndex() throws Exception {
+        var documents = new ArrayList<Document>();
+        for (var i = 0; i < DOCUMENT_COUNT; i++) {
+            // Varying term frequency gives a mix of distinct and tied scores
+            var content = (QUERY + " ").repeat(i % 4 + 1) + "suns maja " + i;
+            var doc = new Document();
+            doc.add(new StringField("title", "doc_" + i, Field.Store.YES));
+            doc.add(new TextField(DocumentIndex.CONTENT_FIELD_NAME, content, Field.Store.YES));
+            documents.add(doc);
+        }
+
+        var index = new InvertedIndex(this.indexPath);
+        index.addDocuments(documents);
+        return index;
+    }
+
+    @Test
+    void pagesMatchTopN() throws Exception {
+        try (var index = createIndex()) {
+            var expected = titles(index.query(QUERY, DOCUMENT_COUNT));
+            assertEquals(DOCUMENT_COUNT, expected.size());
+
+            for (var pageSize : new int[] {1, 5, 7, DOCUMENT_COUNT, DOCUMENT_COUNT + 1}) {
+                var actual = new ArrayList<String>();
+                String cursor = null;
+                do {
+                    var page = index.query(QUERY, cursor, pageSize);
+                    assertFalse(page.results.isEmpty(), "empty page for page size " + pageSize);
+                    assertTrue(page.results.size() <= pageSize);
+                    actual.addAll(titles(page.results));
+                    cursor = page.nextCursor;
+                } while (cursor != null);
+
+                assertEquals(expected, actual, "page size " + pageSize);
+                assertEquals(DOCUMENT_COUNT, new HashSet<>(actual).size());
+            }
+        }
+    }
+
+    @Test
+    void iteratorMatchesTopN() throws Exception {
+        try (var index = createIndex()) {
+            var expected = titles(index.query(QUERY, DOCUMENT_COUNT));
+
+            var actual = new ArrayList<String>();
+            index.iterate(QUERY, 4).forEachRemaining(r -> actual.add(r.doc.get("title")));
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void rejectsInvalidCursors() throws Exception {
+        try (var index = createIndex()) {
+            var cursor = index.query(QUERY, null, 5).nextCursor;
+            assertNotNull(cursor);
+
+            assertThrows(IllegalArgumentException.class, () -> index.query(QUERY, "not a cursor", 5));
+            assertThrows(IllegalArgumentException.class, () -> index.query(QUERY, cursor.substring(1), 5));
+            assertThrows(IllegalArgumentException.class, () -> index.query("suns", cursor, 5));
+        }
+    }
+
+    @Test
+    void rejectsCursorFromDifferentIndexVersion() {
+        var hit = new ScoreDoc(3, 1.5f);
+        var cursor = QueryCursor.encode(hit, QUERY, 1);
+
+        var decoded = QueryCursor.decode(cursor, QUERY, 1);
+        assertEquals(hit.doc, decoded.doc);
+        assertEquals(hit.score, decoded.score);
+
+        assertThrows(IllegalArgumentException.class, () -> QueryCursor.decode(cursor, QUERY, 2));
+    }
+
+    @Test
+    void rejectsCursorFromCollidingQuery() {
+        // "Aa" and "BB" share the same String.hashCode
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        var cursor = QueryCursor.encode(new ScoreDoc(3, 1.5f), "Aa", 1);
+
+        assertNotNull(QueryCursor.decode(cursor, "Aa", 1));
+        assertThrows(IllegalArgumentException.class, () -> QueryCursor.decode(cursor, "BB", 1));
+    }
+
+    @Test
+    void rejectsNonPositivePageSize() throws Exception {
+        try (var index = createIndex()) {
+            assertThrows(IllegalArgumentException.class, () -> index.query(QUERY, null, 0));
+            assertThrows(IllegalArgumentException.class, () -> index.iterate(QUERY, -1));
+        }
+    }
+
+    private static List<String> titles(List<QueryResult> results) {
+        var titles = new ArrayList<String>();
+        for (var result : results) {
+            titles.add(result.doc.get("title"));
+        }
+        return titles;
+    }
+}